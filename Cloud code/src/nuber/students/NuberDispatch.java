@@ -11,7 +11,9 @@ public class NuberDispatch { // Define the NuberDispatch class
 	private final BlockingQueue<Driver> idleDrivers = new LinkedBlockingQueue<>(); // Blocking queue to store idle drivers
 	private final HashMap<String, NuberRegion> regions = new HashMap<>(); // HashMap to store region information
 	private final AtomicInteger bookingsAwaitingDriver = new AtomicInteger(0); // Counter for bookings awaiting drivers
-	private final ExecutorService executorService = Executors.newFixedThreadPool(MAX_DRIVERS); // Create a fixed thread pool
+	private final Object shutdownLock = new Object(); // Makes booking submission atomic with the start of shutdown
+	private final long DRAIN_REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(1); // How often drain progress is logged during shutdown
+	private volatile boolean isShutdown = false; // Flag set as soon as shutdown starts
 
 	/**
 	 * Constructor for the NuberDispatch class.
@@ -87,15 +89,16 @@ public class NuberDispatch { // Define the NuberDispatch class
 	 */
 	public Future<BookingResult> bookPassenger(Passenger passenger, String region) {
 		NuberRegion nuberRegion = regions.get(region); // Get the specified region
-		if (nuberRegion == null || nuberRegion.isShutdown()) { // Check if the region is valid
-			return null; // Return null if the region is invalid or shut down
+		synchronized (shutdownLock) { // Shutdown cannot start between the check and the booking
+			if (isShutdown || nuberRegion == null) { // Check if dispatch is running and the region is valid
+				return null; // Return null if the region is invalid or dispatch is shut down
+			}
+			Future<BookingResult> future = nuberRegion.bookPassenger(passenger); // Let the region queue and run the booking
+			if (future != null) {
+				bookingsAwaitingDriver.incrementAndGet(); // Increase the count of bookings awaiting a driver
+			}
+			return future; // Null if the region itself is shut down
 		}
-		bookingsAwaitingDriver.incrementAndGet(); // Increase the count of bookings awaiting a driver
-		Callable<BookingResult> callable = () -> { // Create a Callable object to handle the booking
-			Booking booking = new Booking(this, passenger); // Create a booking object
-			return booking.call(); // Execute the booking and return the result
-		};
-		return executorService.submit(callable); // Submit the task to the thread pool and return a Future
 	}
 
 	/**
@@ -108,20 +111,116 @@ public class NuberDispatch { // Define the NuberDispatch class
 	}
 
 	/**
-	 * Shuts down the dispatch service, stopping all regions and closing the thread pool.
+	 * Get the number of bookings that have not finished yet, across all regions.
+	 * Can be polled during shutdown to follow drain progress.
+	 *
+	 * @return The number of unfinished bookings.
 	 */
-	public void shutdown() {
+	public int getPendingBookings() {
+		int pending = 0;
 		for (NuberRegion region : regions.values()) {
-			region.shutdown(); // Shut down all regions
+			pending += region.getPendingBookings(); // Bookings queued or running in each region
+		}
+		return pending; // Return the total
+	}
+
+	/**
+	 * Gets the shutdown status of the dispatch.
+	 *
+	 * @return True if shutdown has started, false otherwise.
+	 */
+	public boolean isShutdown() {
+		return isShutdown; // Return the shutdown flag
+	}
+
+	/**
+	 * Shuts down the dispatch service, draining and stopping all regions.
+	 * Waits at most 60 seconds in total; unfinished bookings are logged and dropped.
+	 */
+	public void shutdown() {
+		for (PendingBooking pending : shutdown(60, TimeUnit.SECONDS)) {
+			logEvent(null, "Booking for " + pending.passenger.getName() + " in " + pending.region + " did not finish before shutdown"); // Report each dropped booking
+		}
+	}
+
+	/**
+	 * Shuts down the dispatch service and all regions in parallel under a single deadline.
+	 * New bookings are rejected immediately. Drain progress is logged while waiting.
+	 * Bookings still queued or running when the deadline passes are interrupted and their
+	 * futures cancelled; bookings that completed keep their result. They are returned as {@link PendingBooking}s so the caller can persist them
+	 * and book them again later with {@link #bookPassenger(Passenger, String)}.
+	 *
+	 * @param timeout The maximum time to wait for all bookings to drain.
+	 * @param unit    The unit of the timeout argument.
+	 * @return The bookings that did not finish in time, empty if everything drained.
+	 */
+	public List<PendingBooking> shutdown(long timeout, TimeUnit unit) {
+		long deadline = System.nanoTime() + unit.toNanos(timeout); // One deadline shared by dispatch and all regions
+		synchronized (shutdownLock) { // No booking can be submitted once this block has run
+			isShutdown = true; // Stop accepting bookings straight away
+			for (NuberRegion region : regions.values()) {
+				region.beginShutdown(); // Start draining every region without blocking
+			}
 		}
-		executorService.shutdown(); // Shut down the thread pool
 		try {
-			if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) { // Wait for the thread pool to terminate
-				executorService.shutdownNow(); // Forcefully shut down the thread pool
+			if (awaitDrain(deadline)) { // Wait for all regions to drain
+				return new ArrayList<>(); // Everything finished in time
 			}
 		} catch (InterruptedException e) {
-			executorService.shutdownNow(); // Handle interrupted exception by forcing shutdown
 			Thread.currentThread().interrupt(); // Reset the thread's interrupt status
 		}
+		return shutdownNow(); // Force shutdown and collect whatever is left
+	}
+
+	/**
+	 * Waits for all regions to terminate, logging progress every interval.
+	 *
+	 * @param deadline The {@link System#nanoTime()} value to stop waiting at.
+	 * @return True if everything drained before the deadline, false otherwise.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	private boolean awaitDrain(long deadline) throws InterruptedException {
+		while (true) {
+			long now = System.nanoTime();
+			long sliceEnd = now + Math.max(Math.min(deadline - now, DRAIN_REPORT_INTERVAL), 0); // End of this progress interval
+			if (awaitTermination(sliceEnd)) { // Everything drained within this interval
+				return true;
+			}
+			if (deadline - System.nanoTime() <= 0) { // Deadline reached before everything drained
+				return false;
+			}
+			logEvent(null, "Draining: " + getPendingBookings() + " bookings remaining"); // Report drain progress
+		}
+	}
+
+	/**
+	 * Waits for each region to terminate. Regions were already draining in parallel,
+	 * so this only waits as long as the slowest one.
+	 *
+	 * @param until The {@link System#nanoTime()} value to stop waiting at.
+	 * @return True if all regions terminated, false otherwise.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	private boolean awaitTermination(long until) throws InterruptedException {
+		for (NuberRegion region : regions.values()) {
+			if (!region.awaitTermination(until)) {
+				return false; // This region is still draining
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Forcefully stops all regions, cancelling every booking that did not finish.
+	 *
+	 * @return The bookings that did not finish.
+	 */
+	private List<PendingBooking> shutdownNow() {
+		List<PendingBooking> unfinished = new ArrayList<>();
+		for (NuberRegion region : regions.values()) {
+			unfinished.addAll(region.shutdownNow()); // Collect unfinished bookings from each region
+		}
+		logEvent(null, "Shutdown deadline reached, " + unfinished.size() + " bookings handed off"); // Report the hand-off
+		return unfinished;
 	}
 }
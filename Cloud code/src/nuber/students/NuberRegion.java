@@ -6,13 +6,21 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class NuberRegion {
 
+	// Queued by beginShutdown() to wake the processor thread once shutdown starts
+	private static final Booking SHUTDOWN = new Booking(null, null);
+
 	private final NuberDispatch dispatch;
 	private final String regionName;
 	private final int maxSimultaneousJobs;
 	private final BlockingQueue<Booking> bookingsQueue = new LinkedBlockingQueue<>();
+	private final Map<Booking, CompletableFuture<BookingResult>> pendingBookings = new ConcurrentHashMap<>();
+	private final Queue<Booking> interruptedBookings = new ConcurrentLinkedQueue<>();
 	private final ExecutorService executorService;
 	private final AtomicInteger activeBookings = new AtomicInteger(0);
+	private final Thread bookingProcessor;
+	private final Object shutdownLock = new Object();
 	private volatile boolean isShutdown = false;
+	private volatile boolean isForcedShutdown = false;
 
 	/**
 	 * Constructor for the NuberRegion class.
@@ -27,23 +35,20 @@ public class NuberRegion {
 		this.maxSimultaneousJobs = maxSimultaneousJobs;
 		this.executorService = Executors.newFixedThreadPool(maxSimultaneousJobs);
 
-		Thread bookingProcessor = new Thread(() -> {
-			while (!isShutdown) {
+		bookingProcessor = new Thread(() -> {
+			while (true) {
 				try {
 					Booking booking = bookingsQueue.take();
-					if (activeBookings.incrementAndGet() <= maxSimultaneousJobs) {
-						executorService.submit(() -> {
-							try {
-								BookingResult result = booking.call();
-								dispatch.logEvent(booking, "Booking completed for " + booking.getPassenger().getName() + ": " + result);
-							} catch (Exception e) {
-								dispatch.logEvent(booking, "Error processing booking for " + booking.getPassenger().getName() + ": " + e.getMessage());
-							} finally {
-								activeBookings.decrementAndGet();
-							}
-						});
+					if (booking == SHUTDOWN) {
+						// Stop once every booking queued before shutdown has been handed to the pool
+						if (bookingsQueue.isEmpty()) {
+							break;
+						}
+						bookingsQueue.add(SHUTDOWN);
+					} else if (activeBookings.incrementAndGet() <= maxSimultaneousJobs) {
+						executorService.execute(new BookingTask(booking));
 					} else {
-						bookingsQueue.put(booking);
+						bookingsQueue.add(booking);
 						activeBookings.decrementAndGet();
 					}
 				} catch (InterruptedException e) {
@@ -51,11 +56,59 @@ public class NuberRegion {
 					break;
 				}
 			}
+			executorService.shutdown();
 		});
 		bookingProcessor.setDaemon(true);
 		bookingProcessor.start();
 	}
 
+	/**
+	 * Pool task for a single booking. Keeps the booking reachable so tasks that
+	 * never started can be handed off by {@link #shutdownNow()}.
+	 */
+	private class BookingTask implements Runnable {
+
+		private final Booking booking;
+
+		BookingTask(Booking booking) {
+			this.booking = booking;
+		}
+
+		@Override
+		public void run() {
+			process(booking);
+		}
+	}
+
+	/**
+	 * Runs a single booking and completes its future.
+	 *
+	 * @param booking The booking to run.
+	 */
+	private void process(Booking booking) {
+		try {
+			BookingResult result = booking.call();
+			dispatch.logEvent(booking, "Booking completed for " + booking.getPassenger().getName() + ": " + result);
+			CompletableFuture<BookingResult> future = pendingBookings.remove(booking);
+			if (future != null) {
+				future.complete(result);
+			}
+		} catch (Exception e) {
+			if (e instanceof InterruptedException && isForcedShutdown) {
+				// Cut short by shutdownNow(), which hands it off once the pool has stopped
+				interruptedBookings.add(booking);
+				return;
+			}
+			dispatch.logEvent(booking, "Error processing booking for " + booking.getPassenger().getName() + ": " + e.getMessage());
+			CompletableFuture<BookingResult> future = pendingBookings.remove(booking);
+			if (future != null) {
+				future.completeExceptionally(e);
+			}
+		} finally {
+			activeBookings.decrementAndGet();
+		}
+	}
+
 	/**
 	 * Books a ride for a passenger.
 	 *
@@ -63,40 +116,120 @@ public class NuberRegion {
 	 * @return A Future representing the booking result.
 	 */
 	public Future<BookingResult> bookPassenger(Passenger waitingPassenger) {
-		if (isShutdown) {
-			dispatch.logEvent(null, "Booking request rejected: " + regionName + " is shutting down.");
-			return null;
-		}
-
 		Booking booking = new Booking(dispatch, waitingPassenger);
 		CompletableFuture<BookingResult> future = new CompletableFuture<>();
 
-		bookingsQueue.add(booking);
+		synchronized (shutdownLock) {
+			if (isShutdown) {
+				dispatch.logEvent(null, "Booking request rejected: " + regionName + " is shutting down.");
+				return null;
+			}
+			pendingBookings.put(booking, future);
+			bookingsQueue.add(booking);
+		}
 
-		executorService.submit(() -> {
+		return future;
+	}
+
+	/**
+	 * Stops accepting new bookings without blocking. Bookings already queued keep running.
+	 */
+	public void beginShutdown() {
+		synchronized (shutdownLock) {
+			if (isShutdown) {
+				return;
+			}
+			isShutdown = true;
+			bookingsQueue.add(SHUTDOWN);
+		}
+	}
+
+	/**
+	 * Waits for queued and running bookings to finish, up to the given deadline.
+	 *
+	 * @param deadline The {@link System#nanoTime()} value to stop waiting at.
+	 * @return True if the region drained before the deadline, false otherwise.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public boolean awaitTermination(long deadline) throws InterruptedException {
+		long remaining = deadline - System.nanoTime();
+		if (remaining > 0) {
+			TimeUnit.NANOSECONDS.timedJoin(bookingProcessor, remaining);
+		}
+		remaining = deadline - System.nanoTime();
+		return !bookingProcessor.isAlive() && executorService.awaitTermination(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Stops the processor thread, interrupts running bookings and cancels the futures of
+	 * bookings that did not finish. A booking is handed off only if it was still queued,
+	 * never started on the pool, or was interrupted before its ride completed. Waits for
+	 * interrupted bookings to stop, which is immediate as they only block in interruptible calls.
+	 *
+	 * @return The bookings that did not finish, so they can be booked again elsewhere.
+	 */
+	public List<PendingBooking> shutdownNow() {
+		synchronized (shutdownLock) {
+			isShutdown = true;
+		}
+		isForcedShutdown = true;
+		boolean interrupted = false;
+
+		// Stop the processor first so it cannot submit to a pool that has been shut down
+		bookingProcessor.interrupt();
+		while (bookingProcessor.isAlive()) {
 			try {
-				BookingResult result = booking.call();
-				future.complete(result);
-			} catch (Exception e) {
-				future.completeExceptionally(e);
+				bookingProcessor.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
 			}
-		});
+		}
 
-		return future;
+		List<Booking> unfinished = new ArrayList<>();
+		for (Booking booking : bookingsQueue) {
+			if (booking != SHUTDOWN) {
+				unfinished.add(booking);
+			}
+		}
+		bookingsQueue.clear();
+		for (Runnable task : executorService.shutdownNow()) {
+			unfinished.add(((BookingTask) task).booking);
+		}
+		while (!executorService.isTerminated()) {
+			try {
+				executorService.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		unfinished.addAll(interruptedBookings);
+		interruptedBookings.clear();
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		List<PendingBooking> handedOff = new ArrayList<>();
+		for (Booking booking : unfinished) {
+			CompletableFuture<BookingResult> future = pendingBookings.remove(booking);
+			if (future != null) {
+				future.cancel(false);
+			}
+			handedOff.add(new PendingBooking(booking.getPassenger(), regionName));
+		}
+		return handedOff;
 	}
 
 	/**
 	 * Shuts down the region and releases resources.
 	 */
 	public void shutdown() {
-		isShutdown = true;
-		executorService.shutdown();
+		beginShutdown();
 		try {
-			if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-				executorService.shutdownNow();
+			if (!awaitTermination(System.nanoTime() + TimeUnit.SECONDS.toNanos(60))) {
+				shutdownNow();
 			}
 		} catch (InterruptedException e) {
-			executorService.shutdownNow();
+			shutdownNow();
 			Thread.currentThread().interrupt();
 		}
 	}
@@ -109,4 +242,13 @@ public class NuberRegion {
 	public boolean isShutdown() {
 		return isShutdown;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Gets the number of bookings in this region that have not finished yet.
+	 *
+	 * @return The number of queued or running bookings.
+	 */
+	public int getPendingBookings() {
+		return pendingBookings.size();
+	}
+}
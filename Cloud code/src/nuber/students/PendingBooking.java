@@ -0,0 +1,18 @@
+package nuber.students; // Define the package this class belongs to
+
+/**
+ * A booking that did not finish before shutdown. Holds only what is needed to book again,
+ * so it can be persisted and later re-submitted with
+ * {@code dispatch.bookPassenger(pending.passenger, pending.region)} on a new dispatch.
+ */
+public class PendingBooking { // Define the PendingBooking class
+
+	public Passenger passenger; // The passenger that still needs a ride
+	public String region; // The region the passenger was booked in
+
+	// Constructor to initialize the attributes of the PendingBooking object
+	public PendingBooking(Passenger passenger, String region) {
+		this.passenger = passenger; // Assign the passed passenger to the passenger member variable
+		this.region = region; // Assign the passed region to the region member variable
+	}
+}